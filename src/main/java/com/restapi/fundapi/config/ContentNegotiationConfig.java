@@ -0,0 +1,32 @@
+package com.restapi.fundapi.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// CBOR (application/cbor) e Smile (application/x-jackson-smile) são registrados pelo
+// Spring MVC assim que os módulos do Jackson estão no classpath; aqui ficam o protobuf
+// e a compressão zstd do JSON.
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    private static final int ZSTD_LEVEL = 3;
+
+    // Adicionado no fim da lista para que o JSON continue sendo o padrão sem Accept
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new TaskProtobufHttpMessageConverter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+    public ZstdCompressionFilter zstdCompressionFilter(ServerProperties serverProperties) {
+        long minResponseSize = serverProperties.getCompression().getMinResponseSize().toBytes();
+        return new ZstdCompressionFilter(minResponseSize, ZSTD_LEVEL);
+    }
+}
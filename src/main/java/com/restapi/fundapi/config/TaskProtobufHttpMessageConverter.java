@@ -0,0 +1,168 @@
+package com.restapi.fundapi.config;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.restapi.fundapi.model.Task;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lê e escreve {@link Task} e listas de tarefas em protobuf, seguindo o esquema de
+ * {@code src/main/proto/task.proto}.
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int ID = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int COMPLETED = 4;
+    private static final int TASKS = 1;
+
+    public TaskProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Task.class.isAssignableFrom(clazz);
+    }
+
+    // O Spring descobre os tipos produzíveis pela classe concreta (ArrayList, por exemplo);
+    // o tipo dos elementos continua sendo conferido em canRead/canWrite com o tipo genérico
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || Collection.class.isAssignableFrom(clazz)
+                ? getSupportedMediaTypes()
+                : Collections.emptyList();
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return isTaskOrTaskList(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return isTaskOrTaskList(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+        return isTaskList(type) ? readTaskList(input) : readTask(input);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (object instanceof Task task) {
+            writeTask(output, task);
+        } else {
+            for (Object element : (Collection<?>) object) {
+                Task task = (Task) element;
+                output.writeTag(TASKS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(taskSize(task));
+                writeTask(output, task);
+            }
+        }
+        output.flush();
+    }
+
+    private static boolean isTaskOrTaskList(Type type) {
+        return Task.class.isAssignableFrom(ResolvableType.forType(type).toClass()) || isTaskList(type);
+    }
+
+    private static boolean isTaskList(Type type) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        return Collection.class.isAssignableFrom(resolvableType.toClass())
+                && resolvableType.asCollection().resolveGeneric() == Task.class;
+    }
+
+    private static void writeTask(CodedOutputStream output, Task task) throws IOException {
+        if (task.getId() != 0) {
+            output.writeInt64(ID, task.getId());
+        }
+        if (task.getTitle() != null) {
+            output.writeString(TITLE, task.getTitle());
+        }
+        if (task.getDescription() != null) {
+            output.writeString(DESCRIPTION, task.getDescription());
+        }
+        if (task.isCompleted()) {
+            output.writeBool(COMPLETED, true);
+        }
+    }
+
+    private static int taskSize(Task task) {
+        int size = 0;
+        if (task.getId() != 0) {
+            size += CodedOutputStream.computeInt64Size(ID, task.getId());
+        }
+        if (task.getTitle() != null) {
+            size += CodedOutputStream.computeStringSize(TITLE, task.getTitle());
+        }
+        if (task.getDescription() != null) {
+            size += CodedOutputStream.computeStringSize(DESCRIPTION, task.getDescription());
+        }
+        if (task.isCompleted()) {
+            size += CodedOutputStream.computeBoolSize(COMPLETED, true);
+        }
+        return size;
+    }
+
+    private Task readTask(CodedInputStream input) throws IOException {
+        Task task = new Task();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> task.setId(input.readInt64());
+                case TITLE -> task.setTitle(input.readString());
+                case DESCRIPTION -> task.setDescription(input.readString());
+                case COMPLETED -> task.setCompleted(input.readBool());
+                default -> skipField(input, tag);
+            }
+        }
+        return task;
+    }
+
+    private List<Task> readTaskList(CodedInputStream input) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == TASKS) {
+                int oldLimit = input.pushLimit(input.readRawVarint32());
+                tasks.add(readTask(input));
+                input.popLimit(oldLimit);
+            } else {
+                skipField(input, tag);
+            }
+        }
+        return tasks;
+    }
+
+    private static void skipField(CodedInputStream input, int tag) throws IOException {
+        if (!input.skipField(tag)) {
+            throw new InvalidProtocolBufferException("Unexpected end-group tag");
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.restapi.fundapi.config;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Comprime respostas JSON com zstd quando o cliente aceita. O Tomcat só oferece gzip,
+ * que continua sendo aplicado via {@code server.compression} para os demais clientes.
+ * <p>
+ * A decisão é tomada quando a resposta abre o corpo, já com o {@code Content-Type}
+ * definido: outros formatos seguem direto para o cliente, e o JSON só fica em memória
+ * até atingir o tamanho mínimo, a partir do qual é comprimido em streaming.
+ */
+public class ZstdCompressionFilter extends OncePerRequestFilter {
+
+    private static final String ZSTD = "zstd";
+
+    private final long minResponseSize;
+    private final int level;
+
+    public ZstdCompressionFilter(long minResponseSize, int level) {
+        this.minResponseSize = minResponseSize;
+        this.level = level;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!acceptsZstd(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ZstdResponseWrapper responseWrapper = new ZstdResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        responseWrapper.finish();
+    }
+
+    static boolean acceptsZstd(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (ZSTD.equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || "json".equals(mediaType.getSubtypeSuffix());
+    }
+
+    private final class ZstdResponseWrapper extends HttpServletResponseWrapper {
+
+        private long contentLength = -1;
+        private ServletOutputStream outputStream;
+        private CompressingOutputStream compressingStream;
+        private PrintWriter writer;
+
+        ZstdResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        // O tamanho só é repassado quando a resposta não for comprimida
+        @Override
+        public void setContentLengthLong(long len) {
+            if (outputStream == null) {
+                contentLength = len;
+            } else if (compressingStream == null) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return openStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called for this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(openStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (compressingStream != null) {
+                compressingStream.flush();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        // O DispatcherServlet limpa o buffer antes de chamar o @ExceptionHandler: o corpo já
+        // guardado aqui (e a decisão de comprimir) precisa ser descartado junto
+        @Override
+        public void resetBuffer() {
+            discardBody();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            discardBody();
+            super.reset();
+        }
+
+        private void discardBody() {
+            if (isCommitted()) {
+                return;
+            }
+            if (compressingStream != null && compressingStream.discard()) {
+                removeContentEncoding((HttpServletResponse) getResponse());
+            }
+            outputStream = null;
+            compressingStream = null;
+            writer = null;
+            contentLength = -1;
+        }
+
+        private ServletOutputStream openStream() throws IOException {
+            if (outputStream == null) {
+                boolean compress = isJson(getContentType())
+                        && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                        && (contentLength < 0 || contentLength >= minResponseSize);
+                if (compress) {
+                    compressingStream = new CompressingOutputStream((HttpServletResponse) getResponse());
+                    outputStream = compressingStream;
+                } else {
+                    if (contentLength >= 0) {
+                        super.setContentLengthLong(contentLength);
+                    }
+                    outputStream = super.getOutputStream();
+                }
+            }
+            return outputStream;
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (compressingStream != null) {
+                compressingStream.finish();
+            } else if (outputStream == null && contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+    }
+
+    // A API de servlet não remove um cabeçalho isolado: limpa a resposta e devolve o resto
+    private static void removeContentEncoding(HttpServletResponse response) {
+        int status = response.getStatus();
+        String contentType = response.getContentType();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+
+        response.reset();
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final HttpServletResponse response;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private DiscardableOutputStream sink;
+        private OutputStream zstdStream;
+
+        CompressingOutputStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (zstdStream != null) {
+                zstdStream.write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            if (buffer.size() >= minResponseSize) {
+                startCompressing();
+            }
+        }
+
+        // Enquanto a decisão não foi tomada, nada é enviado ao cliente
+        @Override
+        public void flush() throws IOException {
+            if (zstdStream != null) {
+                zstdStream.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return response.getOutputStream().isReady();
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.getOutputStream().setWriteListener(writeListener);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Could not register the write listener", ex);
+            }
+        }
+
+        private void startCompressing() throws IOException {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, ZSTD);
+            sink = new DiscardableOutputStream(response.getOutputStream());
+            zstdStream = new ZstdOutputStream(sink, level);
+            buffer.writeTo(zstdStream);
+            buffer = null;
+        }
+
+        // Descarta o que ainda não foi enviado; retorna se a compressão já tinha começado
+        boolean discard() {
+            buffer = null;
+            if (zstdStream == null) {
+                return false;
+            }
+            sink.discard();
+            try {
+                zstdStream.close();
+            } catch (IOException ex) {
+                // Nada é escrito depois do descarte
+            }
+            return true;
+        }
+
+        void finish() throws IOException {
+            if (zstdStream != null) {
+                zstdStream.close();
+            } else {
+                response.setContentLength(buffer.size());
+                buffer.writeTo(response.getOutputStream());
+            }
+        }
+    }
+
+    private static final class DiscardableOutputStream extends FilterOutputStream {
+
+        DiscardableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        void discard() {
+            out = OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+    }
+}
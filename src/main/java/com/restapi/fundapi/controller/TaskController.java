@@ -35,6 +35,20 @@ public class TaskController {
         return ResponseEntity.ok(existingTasks);
     }
 
+    @GetMapping
+    public ResponseEntity<List<Task>> getTasks(@RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(defaultValue = "20") int size) {
+
+        List<Task> pageOfTasks = taskService.getTasks(page, size);
+        return ResponseEntity.ok(pageOfTasks);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Long> countTasks() {
+
+        return ResponseEntity.ok(taskService.countTasks());
+    }
+
 
     @GetMapping("/{id}")
     public ResponseEntity<Task> specificTask(@PathVariable Long id) {
@@ -1,8 +1,10 @@
 package com.restapi.fundapi.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,31 +13,39 @@ import org.springframework.web.context.request.WebRequest;
 import java.util.HashMap;
 import java.util.Map;
 
+// As respostas de erro fixam o Content-Type: sem isso o texto sairia rotulado com o
+// formato pedido no Accept (por exemplo application/x-protobuf)
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(value = { IllegalArgumentException.class })
     protected ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex, WebRequest request) {
         String bodyOfResponse = "Invalid argument provided";
-        return ResponseEntity.badRequest().body(bodyOfResponse);
+        return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(bodyOfResponse);
     }
 
     @ExceptionHandler(value = { Exception.class })
     protected ResponseEntity<Object> handleGenericException(Exception ex, WebRequest request) {
         String bodyOfResponse = "An unexpected error occurred";
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(bodyOfResponse);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body(bodyOfResponse);
     }
 
     @ExceptionHandler(value = { ResourceNotFoundException.class })
     protected ResponseEntity<Object> handleResourceNotFound(ResourceNotFoundException ex, WebRequest request) {
         String bodyOfResponse = ex.getMessage();
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(bodyOfResponse);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.TEXT_PLAIN).body(bodyOfResponse);
     }
 
     @ExceptionHandler(value = { InvalidEndpointException.class })
     protected ResponseEntity<Object> handleInvalidEndpoint(InvalidEndpointException ex, WebRequest request) {
         String bodyOfResponse = ex.getMessage();
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(bodyOfResponse);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.TEXT_PLAIN).body(bodyOfResponse);
+    }
+
+    // Formato pedido no Accept que a resposta não tem (ex.: protobuf no /count)
+    @ExceptionHandler(value = { HttpMediaTypeNotAcceptableException.class })
+    protected ResponseEntity<Object> handleNotAcceptable(HttpMediaTypeNotAcceptableException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -53,8 +63,8 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        // Retorna uma resposta HTTP 400 com o mapa de erros
-        return ResponseEntity.badRequest().body(errors);
+        // Retorna uma resposta HTTP 400 com o mapa de erros, sempre em JSON
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errors);
 
     }
 
@@ -1,8 +1,7 @@
 package com.restapi.fundapi.model;
 
+import com.restapi.fundapi.sharding.ShardedId;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.NotBlank;
 import org.hibernate.annotations.NotFound;
@@ -11,7 +10,7 @@ import org.hibernate.annotations.NotFound;
 public class Task {
 
     @Id
-    @GeneratedValue  (strategy = GenerationType.IDENTITY)
+    @ShardedId
     private long id;
 
     @NotBlank(message = "Title cannot be blank")
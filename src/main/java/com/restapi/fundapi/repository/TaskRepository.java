@@ -1,8 +1,12 @@
 package com.restapi.fundapi.repository;
 
 import com.restapi.fundapi.model.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    List<Task> findAllByOrderByIdAsc(Limit limit);
 }
@@ -1,7 +1,7 @@
 package com.restapi.fundapi.service;
 
 import com.restapi.fundapi.model.Task;
-import com.restapi.fundapi.repository.TaskRepository;
+import com.restapi.fundapi.sharding.ShardedTaskRepository;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +11,9 @@ import java.util.Optional;
 @Service
 public class TaskService {
 
-    private final TaskRepository taskRepository;
+    private final ShardedTaskRepository taskRepository;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(ShardedTaskRepository taskRepository) {
         this.taskRepository = taskRepository;
     }
 
@@ -23,10 +23,18 @@ public class TaskService {
     }
 
     public List<Task> getAllTasks() {
-        return (List<Task>) taskRepository.findAll();
+        return taskRepository.findAll();
 
     }
 
+    public List<Task> getTasks(int page, int size) {
+        return taskRepository.findPage(page, size);
+    }
+
+    public long countTasks() {
+        return taskRepository.count();
+    }
+
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
@@ -0,0 +1,18 @@
+package com.restapi.fundapi.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Identificador gerado pelo {@link ShardedSequenceGenerator}: cada id carrega o índice
+ * do shard em que a tarefa foi criada.
+ */
+@IdGeneratorType(ShardedSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ShardedId {
+}
@@ -0,0 +1,53 @@
+package com.restapi.fundapi.sharding;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Gerador de ids intercalados entre os shards.
+ * <p>
+ * Cada shard mantém a sua própria sequence, e o valor {@code n} obtido no shard {@code i}
+ * vira o id {@code (n << SHARD_BITS) | i}. O índice do shard fica nos bits baixos, que não
+ * dependem de quantos shards existem: acrescentar shards não muda a rota dos ids antigos
+ * nem gera ids repetidos.
+ */
+public class ShardedSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String SHARD_INDEX = "fundapi.sharding.shard-index";
+
+    public static final int SHARD_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private long shardIndex;
+
+    public static int shardIndexOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        super.configure(type, parameters, serviceRegistry);
+
+        Map<String, Object> settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        this.shardIndex = ConfigurationHelper.getInt(SHARD_INDEX, settings, 0);
+
+        if (shardIndex < 0 || shardIndex >= MAX_SHARDS) {
+            throw new MappingException("Invalid shard index " + shardIndex + ", must be below " + MAX_SHARDS);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        long sequenceValue = ((Number) super.generate(session, object)).longValue();
+        return (sequenceValue << SHARD_BITS) | shardIndex;
+    }
+}
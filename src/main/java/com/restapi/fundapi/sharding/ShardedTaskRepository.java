@@ -0,0 +1,183 @@
+package com.restapi.fundapi.sharding;
+
+import com.restapi.fundapi.model.Task;
+import com.restapi.fundapi.repository.TaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Distribui as tarefas entre vários shards.
+ * <p>
+ * Novas tarefas são alocadas em round-robin e recebem um id que identifica o shard (ver
+ * {@link ShardedSequenceGenerator}), então operações por id vão direto para esse shard.
+ * Listagens e contagens são enviadas a todos os shards em paralelo e juntadas por ordem de id.
+ */
+public class ShardedTaskRepository implements AutoCloseable {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_OFFSET = 10_000;
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final List<TaskShard> shards;
+    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    ShardedTaskRepository(List<TaskShard> shards, int fanOutThreads) {
+        if (shards.isEmpty() || shards.size() > ShardedSequenceGenerator.MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + ShardedSequenceGenerator.MAX_SHARDS + " shards are required");
+        }
+        this.shards = List.copyOf(shards);
+        // Pelo menos uma thread por shard, para que uma consulta sozinha rode toda em paralelo
+        int threads = Math.max(fanOutThreads, shards.size());
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("task-shard-"));
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public Task save(Task task) {
+        if (task.getId() == 0) {
+            TaskShard shard = shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+            return shard.execute(repository -> repository.save(task));
+        }
+        TaskShard shard = shardFor(task.getId())
+                .orElseThrow(() -> new IllegalArgumentException("No shard for task id: " + task.getId()));
+        return shard.execute(repository -> repository.save(task));
+    }
+
+    public Optional<Task> findById(Long id) {
+        return shardFor(id).flatMap(shard -> shard.execute(repository -> repository.findById(id)));
+    }
+
+    public void deleteById(Long id) {
+        shardFor(id).ifPresent(shard -> shard.execute(repository -> {
+            repository.deleteById(id);
+            return null;
+        }));
+    }
+
+    public List<Task> findAll() {
+        return mergeById(scatter(repository -> repository.findAll(BY_ID)), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retorna uma página de tarefas ordenadas por id. Cada shard precisa devolver as suas
+     * primeiras {@code (page + 1) * size} tarefas, por isso o tamanho da página e o
+     * deslocamento são limitados.
+     */
+    public List<Task> findPage(int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0 || (long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException("Page offset must be between 0 and " + MAX_OFFSET);
+        }
+        int offset = page * size;
+        Limit limit = Limit.of(offset + size);
+
+        List<Task> merged = mergeById(scatter(repository -> repository.findAllByOrderByIdAsc(limit)), offset + size);
+        return merged.subList(Math.min(merged.size(), offset), merged.size());
+    }
+
+    public long count() {
+        return scatter(repository -> repository.count()).stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Ids de shards que não existem nesta configuração não podem estar em lugar nenhum
+    Optional<TaskShard> shardFor(long id) {
+        int index = ShardedSequenceGenerator.shardIndexOf(id);
+        return index < shards.size() ? Optional.of(shards.get(index)) : Optional.empty();
+    }
+
+    private <T> List<T> scatter(Function<TaskRepository, T> operation) {
+        if (shards.size() == 1) {
+            return List.of(shards.get(0).execute(operation));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (TaskShard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.execute(operation), executor));
+        }
+
+        List<T> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    private static List<Task> mergeById(List<List<Task>> sortedLists, int limit) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<>(Comparator.comparingLong(it -> it.peek().getId()));
+        for (List<Task> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heads.add(new PeekingIterator(list.iterator()));
+            }
+        }
+
+        List<Task> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            PeekingIterator head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        for (TaskShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private static final class PeekingIterator {
+
+        private final Iterator<Task> iterator;
+        private Task next;
+
+        PeekingIterator(Iterator<Task> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        Task peek() {
+            return next;
+        }
+
+        Task next() {
+            Task current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.restapi.fundapi.sharding;
+
+import com.restapi.fundapi.model.Task;
+import com.restapi.fundapi.repository.TaskRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedTaskRepository shardedTaskRepository(ShardingProperties properties,
+                                                       TaskRepository taskRepository,
+                                                       PlatformTransactionManager transactionManager,
+                                                       EntityManagerFactoryBuilder entityManagerFactoryBuilder) {
+        List<TaskShard> shards = new ArrayList<>();
+        shards.add(new TaskShard(0, taskRepository, new TransactionTemplate(transactionManager), null));
+
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            shards.add(createShard(shards.size(), shard, entityManagerFactoryBuilder));
+        }
+        return new ShardedTaskRepository(shards, properties.getFanOutThreads());
+    }
+
+    private TaskShard createShard(int index, ShardingProperties.Shard shard,
+                                  EntityManagerFactoryBuilder entityManagerFactoryBuilder) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactoryBuilder
+                .dataSource(dataSource)
+                .packages(Task.class)
+                .persistenceUnit("shard-" + index)
+                .properties(Map.of(ShardedSequenceGenerator.SHARD_INDEX, index))
+                .build();
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        TaskRepository repository = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(TaskRepository.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        return new TaskShard(index, repository, transactionTemplate, () -> {
+            entityManagerFactory.close();
+            dataSource.close();
+        });
+    }
+}
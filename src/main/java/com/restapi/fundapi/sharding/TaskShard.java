@@ -0,0 +1,39 @@
+package com.restapi.fundapi.sharding;
+
+import com.restapi.fundapi.repository.TaskRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+/**
+ * Um datasource com uma fatia das tarefas, com repositório e transações próprios.
+ */
+class TaskShard implements AutoCloseable {
+
+    private final int index;
+    private final TaskRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final AutoCloseable resources;
+
+    TaskShard(int index, TaskRepository repository, TransactionTemplate transactionTemplate, AutoCloseable resources) {
+        this.index = index;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.resources = resources;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    <T> T execute(Function<TaskRepository, T> operation) {
+        return transactionTemplate.execute(status -> operation.apply(repository));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (resources != null) {
+            resources.close();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.restapi.fundapi.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Mede o tempo até a primeira requisição bem-sucedida no modo padrão (jar) e no modo
+// otimizado (Spring AOT + AppCDS), ambos com o perfil prod para que a diferença venha
+// só de AOT e CDS. Os artefatos precisam existir antes:
+//   ./mvnw -Pfast-startup package -DskipTests
+//   ./mvnw test -Dtest=StartupBenchmark -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StartupBenchmark {
+
+    private static final int RUNS = 5;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final String JAR = "fundapi-0.0.1-SNAPSHOT.jar";
+    private static final String PROFILE = "prod";
+    private static final Path TARGET = Paths.get("target").toAbsolutePath();
+    private static final Path CDS = TARGET.resolve("cds");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static String java() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private long timeToFirstRequestMillis(Path workingDirectory, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/count"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    fail("Application exited with code " + process.exitValue());
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException ex) {
+                    // Ainda subindo (conexão recusada, resetada ou sem resposta a tempo)
+                }
+                Thread.sleep(10);
+            }
+            fail("Application did not answer within " + TIMEOUT);
+            return -1;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void report(String mode, Path workingDirectory, List<String> command) throws Exception {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            times.add(timeToFirstRequestMillis(workingDirectory, command));
+        }
+        Collections.sort(times);
+        System.out.printf("%-10s %8d %8d %8d%n", mode, times.get(0), times.get(RUNS / 2), times.get(RUNS - 1));
+    }
+
+    @Test
+    void compareStartupModes() throws Exception {
+        assumeTrue(new File(TARGET.toFile(), JAR).isFile(), "Run ./mvnw -Pfast-startup package first");
+        assumeTrue(new File(CDS.toFile(), "fundapi.jsa").isFile(), "Run ./mvnw -Pfast-startup package first");
+
+        System.out.printf("%ntime to first successful request (ms, %d runs, profile %s)%n%-10s %8s %8s %8s%n",
+                RUNS, PROFILE, "mode", "min", "median", "max");
+
+        report("default", TARGET, List.of(java(),
+                "-Dspring.profiles.active=" + PROFILE,
+                "-jar", JAR));
+        report("optimized", CDS, List.of(java(),
+                "-XX:SharedArchiveFile=fundapi.jsa",
+                "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=" + PROFILE,
+                "-jar", JAR));
+    }
+}
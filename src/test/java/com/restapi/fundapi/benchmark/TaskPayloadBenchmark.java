@@ -0,0 +1,166 @@
+package com.restapi.fundapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.luben.zstd.Zstd;
+import com.restapi.fundapi.config.TaskProtobufHttpMessageConverter;
+import com.restapi.fundapi.model.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compara tamanho e throughput de codificação/decodificação de uma lista de tarefas
+// em cada formato suportado. Executar com:
+//   ./mvnw test -Dtest=TaskPayloadBenchmark -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TaskPayloadBenchmark {
+
+    private static final int TASKS = 1_000;
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+    private static final Type TASK_LIST = new ParameterizedTypeReference<List<Task>>() {}.getType();
+
+    private interface Codec {
+        byte[] encode(List<Task> tasks) throws IOException;
+
+        List<Task> decode(byte[] payload) throws IOException;
+    }
+
+    private static Codec jackson(ObjectMapper mapper) {
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Task> tasks) throws IOException {
+                return mapper.writeValueAsBytes(tasks);
+            }
+
+            @Override
+            public List<Task> decode(byte[] payload) throws IOException {
+                return List.of(mapper.readValue(payload, Task[].class));
+            }
+        };
+    }
+
+    private static Codec protobuf() {
+        TaskProtobufHttpMessageConverter converter = new TaskProtobufHttpMessageConverter();
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Task> tasks) throws IOException {
+                MockHttpOutputMessage output = new MockHttpOutputMessage();
+                converter.write(tasks, TASK_LIST, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF, output);
+                return output.getBodyAsBytes();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Task> decode(byte[] payload) throws IOException {
+                return (List<Task>) converter.read(TASK_LIST, null, new MockHttpInputMessage(payload));
+            }
+        };
+    }
+
+    private static Codec gzip(Codec codec) {
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Task> tasks) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (GZIPOutputStream output = new GZIPOutputStream(bytes)) {
+                    output.write(codec.encode(tasks));
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public List<Task> decode(byte[] payload) throws IOException {
+                try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+                    return codec.decode(input.readAllBytes());
+                }
+            }
+        };
+    }
+
+    private static Codec zstd(Codec codec) {
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Task> tasks) throws IOException {
+                return Zstd.compress(codec.encode(tasks), 3);
+            }
+
+            @Override
+            public List<Task> decode(byte[] payload) throws IOException {
+                return codec.decode(Zstd.decompress(payload, (int) Zstd.getFrameContentSize(payload)));
+            }
+        };
+    }
+
+    private static List<Task> sampleTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= TASKS; i++) {
+            Task task = new Task();
+            task.setId(i);
+            task.setTitle("Task number " + i);
+            task.setDescription("Description of task " + i + " with some extra detail");
+            task.setCompleted(i % 3 == 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private interface Operation {
+        void run() throws IOException;
+    }
+
+    private static double opsPerSecond(Operation operation) throws IOException {
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmupEnd) {
+            operation.run();
+        }
+
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            operation.run();
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+        return operations * 1_000_000_000.0 / elapsed;
+    }
+
+    @Test
+    void comparePayloadFormats() throws IOException {
+        ObjectMapper json = new ObjectMapper();
+        List<Task> tasks = sampleTasks();
+
+        List<String> names = List.of("json", "json+gzip", "json+zstd", "cbor", "smile", "protobuf");
+        List<Codec> codecs = List.of(jackson(json), gzip(jackson(json)), zstd(jackson(json)),
+                jackson(new CBORMapper()), jackson(new SmileMapper()), protobuf());
+
+        int jsonSize = codecs.get(0).encode(tasks).length;
+        System.out.printf("%n%d tasks%n%-10s %10s %8s %14s %14s%n", TASKS, "format", "bytes", "vs json", "encode/s", "decode/s");
+
+        for (int i = 0; i < codecs.size(); i++) {
+            Codec codec = codecs.get(i);
+            byte[] payload = codec.encode(tasks);
+            assertEquals(tasks.size(), codec.decode(payload).size());
+
+            double encodes = opsPerSecond(() -> codec.encode(tasks));
+            double decodes = opsPerSecond(() -> codec.decode(payload));
+            System.out.printf("%-10s %10d %7.0f%% %14.0f %14.0f%n", names.get(i), payload.length,
+                    100.0 * payload.length / jsonSize, encodes, decodes);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.restapi.fundapi.config;
+
+import com.restapi.fundapi.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskProtobufHttpMessageConverterTest {
+
+    private static final Type TASK_LIST = new ParameterizedTypeReference<List<Task>>() {}.getType();
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+    private final TaskProtobufHttpMessageConverter converter = new TaskProtobufHttpMessageConverter();
+
+    private static Task task(long id, String title, String description, boolean completed) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(completed);
+        return task;
+    }
+
+    // Deve aceitar apenas tarefas e listas de tarefas
+    @Test
+    void canReadAndWrite_ShouldOnlySupportTasks() {
+        assertTrue(converter.canRead(Task.class, null, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(TASK_LIST, List.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(STRING_LIST, List.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(String.class, String.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    // Deve anunciar protobuf para a classe concreta de uma lista
+    @Test
+    void getSupportedMediaTypes_ShouldIncludeProtobufForLists() {
+        assertEquals(List.of(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF), converter.getSupportedMediaTypes(ArrayList.class));
+        assertTrue(converter.getSupportedMediaTypes(String.class).isEmpty());
+    }
+
+    // Escrever e ler uma tarefa deve preservar todos os campos
+    @Test
+    void task_ShouldRoundTrip() throws Exception {
+        // Arrange
+        Task task = task(42L, "Title", "Descrição", true);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(task, Task.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF, output);
+        Task result = (Task) converter.read(Task.class, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // Assert
+        assertEquals(42L, result.getId());
+        assertEquals("Title", result.getTitle());
+        assertEquals("Descrição", result.getDescription());
+        assertTrue(result.isCompleted());
+    }
+
+    // Escrever e ler uma lista deve preservar a ordem e os campos nulos
+    @Test
+    @SuppressWarnings("unchecked")
+    void taskList_ShouldRoundTrip() throws Exception {
+        // Arrange
+        List<Task> tasks = List.of(task(1L, "First", null, false), task(2L, "Second", "Other", true));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(tasks, TASK_LIST, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF, output);
+        List<Task> result = (List<Task>) converter.read(TASK_LIST, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertNull(result.get(0).getDescription());
+        assertFalse(result.get(0).isCompleted());
+        assertEquals("Second", result.get(1).getTitle());
+        assertTrue(result.get(1).isCompleted());
+    }
+}
@@ -0,0 +1,185 @@
+package com.restapi.fundapi.config;
+
+import com.github.luben.zstd.Zstd;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ZstdCompressionFilterTest {
+
+    private static final String JSON = "[" + "{\"title\":\"Task\",\"completed\":false},".repeat(100) + "{}]";
+
+    private final ZstdCompressionFilter filter = new ZstdCompressionFilter(1024, 3);
+
+    private int writtenBeforeFinish;
+
+    private MockHttpServletResponse execute(String acceptEncoding, String contentType) throws Exception {
+        return execute(acceptEncoding, contentType, JSON);
+    }
+
+    private MockHttpServletResponse execute(String acceptEncoding, String contentType, String content) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/all");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                resp.getOutputStream().write(content.getBytes(StandardCharsets.UTF_8));
+                // Formatos não comprimidos devem chegar ao cliente sem passar por buffer
+                writtenBeforeFinish = response.getContentAsByteArray().length;
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    // Deve comprimir JSON quando o cliente aceita zstd
+    @Test
+    void doFilter_ShouldCompressJson_WhenClientAcceptsZstd() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute("gzip, zstd", MediaType.APPLICATION_JSON_VALUE);
+
+        // Assert
+        byte[] body = response.getContentAsByteArray();
+        assertEquals("zstd", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(body.length < JSON.length());
+        assertEquals(JSON, new String(Zstd.decompress(body, JSON.length()), StandardCharsets.UTF_8));
+    }
+
+    // Não deve comprimir quando o cliente não aceita zstd
+    @Test
+    void doFilter_ShouldNotCompress_WhenClientDoesNotAcceptZstd() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute("gzip, zstd;q=0", MediaType.APPLICATION_JSON_VALUE);
+
+        // Assert
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(JSON, response.getContentAsString());
+    }
+
+    // Não deve comprimir formatos binários
+    @Test
+    void doFilter_ShouldNotCompress_WhenResponseIsNotJson() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute("zstd", "application/cbor");
+
+        // Assert
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(JSON.length(), response.getContentAsByteArray().length);
+        assertEquals(JSON.length(), writtenBeforeFinish);
+    }
+
+    // JSON menor que o tamanho mínimo não deve ser comprimido
+    @Test
+    void doFilter_ShouldNotCompress_WhenJsonIsSmall() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute("zstd", MediaType.APPLICATION_JSON_VALUE, "{\"title\":\"Task\"}");
+
+        // Assert
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("{\"title\":\"Task\"}", response.getContentAsString());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
+    private MockHttpServletResponse executeWithReset(String partialJson) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/all");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "zstd");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getOutputStream().write(partialJson.getBytes(StandardCharsets.UTF_8));
+
+                // Mesmo fluxo do DispatcherServlet ao delegar para o @ExceptionHandler
+                resp.resetBuffer();
+                resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                resp.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                resp.getOutputStream().write("An unexpected error occurred".getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    // Limpar o buffer antes da compressão deve descartar o JSON parcial
+    @Test
+    void resetBuffer_ShouldDiscardBufferedJson() throws Exception {
+        // Act
+        MockHttpServletResponse response = executeWithReset("[{\"title\":\"partial");
+
+        // Assert
+        assertEquals(500, response.getStatus());
+        assertEquals(MediaType.TEXT_PLAIN_VALUE, response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("An unexpected error occurred", response.getContentAsString());
+    }
+
+    // Limpar o buffer depois de iniciar a compressão deve descartar o zstd e o Content-Encoding
+    @Test
+    void resetBuffer_ShouldDiscardStartedCompression() throws Exception {
+        // Act
+        MockHttpServletResponse response = executeWithReset(JSON);
+
+        // Assert
+        assertEquals(500, response.getStatus());
+        assertEquals(MediaType.TEXT_PLAIN_VALUE, response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals("An unexpected error occurred", response.getContentAsString());
+    }
+
+    // Escrita não bloqueante deve ser delegada ao stream do container
+    @Test
+    void writeListener_ShouldBeDelegatedToContainerStream() throws Exception {
+        // Arrange
+        WriteListener listener = mock(WriteListener.class);
+        ServletOutputStream containerStream = mock(ServletOutputStream.class);
+        when(containerStream.isReady()).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return containerStream;
+            }
+        };
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/all");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "zstd");
+        boolean[] ready = new boolean[1];
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                ServletOutputStream outputStream = resp.getOutputStream();
+                outputStream.setWriteListener(listener);
+                ready[0] = outputStream.isReady();
+            }
+        };
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+
+        // Assert
+        verify(containerStream).setWriteListener(listener);
+        assertFalse(ready[0]);
+    }
+}
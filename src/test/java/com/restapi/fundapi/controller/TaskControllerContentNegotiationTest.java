@@ -0,0 +1,254 @@
+package com.restapi.fundapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.restapi.fundapi.config.ContentNegotiationConfig;
+import com.restapi.fundapi.config.TaskProtobufHttpMessageConverter;
+import com.restapi.fundapi.model.Task;
+import com.restapi.fundapi.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = TaskController.class, properties = {
+        "server.compression.enabled=true",
+        "server.compression.min-response-size=0"
+})
+@Import(ContentNegotiationConfig.class)
+public class TaskControllerContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final Type TASK_LIST = new ParameterizedTypeReference<List<Task>>() {}.getType();
+
+    private final TaskProtobufHttpMessageConverter protobuf = new TaskProtobufHttpMessageConverter();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    private static Task task(long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+
+    // Listagem deve ser codificada em CBOR quando solicitado
+    @Test
+    void getAllTasks_ShouldReturnCbor_WhenRequested() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(List.of(task(1L, "First"), task(2L, "Second")));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks/all").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        Task[] tasks = new CBORMapper().readValue(body, Task[].class);
+        assertEquals(2, tasks.length);
+        assertEquals("Second", tasks[1].getTitle());
+    }
+
+    // Criação deve aceitar e devolver Smile
+    @Test
+    void createTask_ShouldAcceptAndReturnSmile() throws Exception {
+        // Arrange
+        SmileMapper smileMapper = new SmileMapper();
+        when(taskService.createTask(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/tasks")
+                        .contentType(SMILE).accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(task(0L, "Created"))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals("Created", smileMapper.readValue(body, Task.class).getTitle());
+    }
+
+    // Criação deve aceitar e devolver protobuf
+    @Test
+    void createTask_ShouldAcceptAndReturnProtobuf() throws Exception {
+        // Arrange
+        MockHttpOutputMessage request = new MockHttpOutputMessage();
+        protobuf.write(task(0L, "Created"), Task.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF, request);
+        when(taskService.createTask(any(Task.class))).thenAnswer(invocation -> {
+            Task created = invocation.getArgument(0);
+            created.setId(7L);
+            return created;
+        });
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/tasks")
+                        .contentType(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .content(request.getBodyAsBytes()))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        Task created = (Task) protobuf.read(Task.class, null, new MockHttpInputMessage(body));
+        assertEquals(7L, created.getId());
+        assertEquals("Created", created.getTitle());
+    }
+
+    // Listagem completa deve ser codificada em protobuf quando solicitado
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllTasks_ShouldReturnProtobuf_WhenRequested() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(List.of(task(1L, "First"), task(2L, "Second")));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks/all").accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        List<Task> tasks = (List<Task>) protobuf.read(TASK_LIST, null, new MockHttpInputMessage(body));
+        assertEquals(2, tasks.size());
+        assertEquals("Second", tasks.get(1).getTitle());
+    }
+
+    // Listagem paginada deve ser codificada em protobuf quando solicitado
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTasks_ShouldReturnProtobuf_WhenRequested() throws Exception {
+        // Arrange
+        when(taskService.getTasks(0, 2)).thenReturn(List.of(task(1L, "First"), task(2L, "Second")));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks").param("size", "2")
+                        .accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        List<Task> tasks = (List<Task>) protobuf.read(TASK_LIST, null, new MockHttpInputMessage(body));
+        assertEquals(List.of(1L, 2L), tasks.stream().map(Task::getId).toList());
+    }
+
+    // Tarefa inexistente deve responder 404 em texto mesmo pedindo protobuf
+    @Test
+    void specificTask_ShouldReturnPlainTextNotFound_WhenProtobufRequested() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(9999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/9999").accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Task not found with id: 9999"));
+    }
+
+    // Erro de validação deve responder 400 com os erros em JSON mesmo pedindo protobuf
+    @Test
+    void createTask_ShouldReturnJsonValidationErrors_WhenProtobufRequested() throws Exception {
+        // Arrange
+        Task invalidTask = task(0L, " ");
+        invalidTask.setDescription("Without title");
+        MockHttpOutputMessage request = new MockHttpOutputMessage();
+        protobuf.write(invalidTask, Task.class, TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF, request);
+
+        // Act
+        String body = mockMvc.perform(post("/api/tasks")
+                        .contentType(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .content(request.getBodyAsBytes()))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertEquals("Title cannot be blank", new ObjectMapper().readTree(body).get("title").asText());
+    }
+
+    // Contagem não tem codificação protobuf e deve responder 406
+    @Test
+    void countTasks_ShouldReturnNotAcceptable_WhenProtobufRequested() throws Exception {
+        // Arrange
+        when(taskService.countTasks()).thenReturn(2L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/count").accept(TaskProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    // Contagem deve continuar disponível em CBOR
+    @Test
+    void countTasks_ShouldReturnCbor_WhenRequested() throws Exception {
+        // Arrange
+        when(taskService.countTasks()).thenReturn(2L);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks/count").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals(2L, new CBORMapper().readValue(body, Long.class));
+    }
+
+    // JSON continua sendo o padrão e é comprimido com zstd quando aceito
+    @Test
+    void getAllTasks_ShouldCompressJson_WhenClientAcceptsZstd() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(List.of(task(1L, "First")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/all").header(HttpHeaders.ACCEPT_ENCODING, "zstd"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "zstd"));
+    }
+
+    // Sem Accept, a resposta deve continuar em JSON
+    @Test
+    void specificTask_ShouldDefaultToJson() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(Optional.of(task(1L, "First")));
+
+        // Act
+        String body = mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertEquals("First", new ObjectMapper().readValue(body, Task.class).getTitle());
+    }
+}
@@ -64,6 +64,37 @@ public class TaskControllerTest {
         verify(taskService, times(1)).getAllTasks();
     }
 
+    //Obter página de tarefas deve retornar lista de tarefas
+    @Test
+    void getTasks_ShouldReturnPageOfTasks() {
+        // Arrange
+        List<Task> tasks = Collections.singletonList(new Task());
+        when(taskService.getTasks(0, 20)).thenReturn(tasks);
+
+        // Act
+        ResponseEntity<List<Task>> response = taskController.getTasks(0, 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(tasks, response.getBody());
+        verify(taskService, times(1)).getTasks(0, 20);
+    }
+
+    //Contar tarefas deve retornar o total
+    @Test
+    void countTasks_ShouldReturnTotal() {
+        // Arrange
+        when(taskService.countTasks()).thenReturn(5L);
+
+        // Act
+        ResponseEntity<Long> response = taskController.countTasks();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5L, response.getBody());
+        verify(taskService, times(1)).countTasks();
+    }
+
     //Tarefa específica deve retornar tarefa quando a tarefa existir
     @Test
     void specificTask_ShouldReturnTask_WhenTaskExists() {
@@ -1,7 +1,7 @@
 package com.restapi.fundapi.service;
 
 import com.restapi.fundapi.model.Task;
-import com.restapi.fundapi.repository.TaskRepository;
+import com.restapi.fundapi.sharding.ShardedTaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -19,7 +19,7 @@ import static org.mockito.Mockito.*;
 public class TaskServiceTest {
 
     @Mock
-    private TaskRepository taskRepository;
+    private ShardedTaskRepository taskRepository;
 
     @InjectMocks
     private TaskService taskService;
@@ -70,6 +70,35 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findAll();
     }
 
+    // Obter página de tarefas deve delegar para o repositório
+    @Test
+    void getTasks_ShouldReturnPageOfTasks() {
+        // Arrange
+        List<Task> tasks = Arrays.asList(new Task(), new Task());
+        when(taskRepository.findPage(1, 2)).thenReturn(tasks);
+
+        // Act
+        List<Task> result = taskService.getTasks(1, 2);
+
+        // Assert
+        assertEquals(tasks, result);
+        verify(taskRepository, times(1)).findPage(1, 2);
+    }
+
+    // Contar tarefas deve retornar o total do repositório
+    @Test
+    void countTasks_ShouldReturnTotal() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(3L);
+
+        // Act
+        long result = taskService.countTasks();
+
+        // Assert
+        assertEquals(3L, result);
+        verify(taskRepository, times(1)).count();
+    }
+
     //A tarefa específica deve retornar a tarefa quando a tarefa existir
     @Test
     void getTaskById_ShouldReturnTask_WhenTaskExists() {
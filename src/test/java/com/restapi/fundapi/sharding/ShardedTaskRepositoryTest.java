@@ -0,0 +1,120 @@
+package com.restapi.fundapi.sharding;
+
+import com.restapi.fundapi.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard0",
+        "fundapi.sharding.shards[0].url=jdbc:h2:mem:shard1",
+        "fundapi.sharding.shards[0].username=sa",
+        "fundapi.sharding.shards[1].url=jdbc:h2:mem:shard2",
+        "fundapi.sharding.shards[1].username=sa"
+})
+public class ShardedTaskRepositoryTest {
+
+    @Autowired
+    private ShardedTaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.findAll().forEach(task -> taskRepository.deleteById(task.getId()));
+    }
+
+    private List<Task> createTasks(int amount) {
+        List<Task> created = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            created.add(taskRepository.save(task));
+        }
+        return created;
+    }
+
+    // Salvar tarefas deve distribuir entre os shards com ids únicos
+    @Test
+    void save_ShouldSpreadTasksAcrossShardsWithUniqueIds() {
+        // Act
+        List<Task> created = createTasks(9);
+
+        // Assert
+        assertEquals(3, taskRepository.getShardCount());
+        Set<Long> ids = new HashSet<>();
+        Set<Integer> usedShards = new HashSet<>();
+        for (Task task : created) {
+            assertTrue(ids.add(task.getId()));
+            usedShards.add(ShardedSequenceGenerator.shardIndexOf(task.getId()));
+        }
+        assertEquals(Set.of(0, 1, 2), usedShards);
+    }
+
+    // Operações pontuais devem encontrar a tarefa no shard correto
+    @Test
+    void pointOperations_ShouldRouteById() {
+        // Arrange
+        List<Task> created = createTasks(3);
+        Task task = created.get(1);
+
+        // Act
+        task.setTitle("Updated Title");
+        taskRepository.save(task);
+        Optional<Task> found = taskRepository.findById(task.getId());
+        taskRepository.deleteById(created.get(2).getId());
+
+        // Assert
+        assertTrue(found.isPresent());
+        assertEquals("Updated Title", found.get().getTitle());
+        assertFalse(taskRepository.findById(created.get(2).getId()).isPresent());
+        assertEquals(2, taskRepository.count());
+    }
+
+    // Ids de shards inexistentes não devem ser encontrados nem causar erro
+    @Test
+    void pointOperations_ShouldIgnoreIdsOfUnknownShards() {
+        // Arrange
+        long idOnMissingShard = (1L << ShardedSequenceGenerator.SHARD_BITS) | 5;
+
+        // Act & Assert
+        assertFalse(taskRepository.findById(idOnMissingShard).isPresent());
+        assertDoesNotThrow(() -> taskRepository.deleteById(idOnMissingShard));
+    }
+
+    // Listagem, paginação e contagem devem juntar todos os shards em ordem de id
+    @Test
+    void listingAndCount_ShouldMergeAllShardsInIdOrder() {
+        // Arrange
+        List<Long> ids = createTasks(7).stream().map(Task::getId).sorted().toList();
+
+        // Act
+        List<Long> all = taskRepository.findAll().stream().map(Task::getId).toList();
+        List<Long> secondPage = taskRepository.findPage(1, 3).stream().map(Task::getId).toList();
+        List<Long> lastPage = taskRepository.findPage(2, 3).stream().map(Task::getId).toList();
+
+        // Assert
+        assertEquals(ids, all);
+        assertEquals(ids.subList(3, 6), secondPage);
+        assertEquals(ids.subList(6, 7), lastPage);
+        assertTrue(taskRepository.findPage(5, 3).isEmpty());
+        assertEquals(7, taskRepository.count());
+    }
+
+    // Páginas grandes ou profundas demais devem ser rejeitadas
+    @Test
+    void findPage_ShouldRejectOversizedOrDeepPages() {
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.findPage(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.findPage(0, ShardedTaskRepository.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.findPage(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.findPage(ShardedTaskRepository.MAX_OFFSET / 10 + 1, 10));
+        assertDoesNotThrow(() -> taskRepository.findPage(ShardedTaskRepository.MAX_OFFSET / 10, 10));
+    }
+}